@@ -1,15 +1,20 @@
 package com.liteflow.unit.base;
 
+import com.liteflow.dao.BaseDAO;
+import com.liteflow.utils.DatabaseTestHelper;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
-import jakarta.persistence.Persistence;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.function.Executable;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.lang.reflect.Field;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Base class for unit tests with H2 in-memory database setup
@@ -30,22 +35,8 @@ public abstract class UnitTestBase {
      */
     @BeforeAll
     public static void setUpClass() {
-        Map<String, String> properties = new HashMap<>();
-
-        // H2 in-memory database configuration
-        properties.put("jakarta.persistence.jdbc.driver", "org.h2.Driver");
-        properties.put("jakarta.persistence.jdbc.url", "jdbc:h2:mem:test;DB_CLOSE_DELAY=-1;MODE=MSSQLServer");
-        properties.put("jakarta.persistence.jdbc.user", "sa");
-        properties.put("jakarta.persistence.jdbc.password", "");
-
-        // Hibernate configuration for H2
-        properties.put("hibernate.dialect", "org.hibernate.dialect.H2Dialect");
-        properties.put("hibernate.hbm2ddl.auto", "create-drop");
-        properties.put("hibernate.show_sql", "false");
-        properties.put("hibernate.format_sql", "true");
-
         try {
-            entityManagerFactory = Persistence.createEntityManagerFactory("LiteFlowPU", properties);
+            entityManagerFactory = DatabaseTestHelper.createTestEntityManagerFactory();
         } catch (Exception e) {
             System.err.println("Failed to create EntityManagerFactory: " + e.getMessage());
             e.printStackTrace();
@@ -92,6 +83,22 @@ public abstract class UnitTestBase {
         }
     }
 
+    /**
+     * Point BaseDAO's static EntityManagerFactory at the test factory so
+     * services and servlets under test share the same H2 database.
+     * BaseDAO has no injection point, so this is the single place that
+     * reaches into it via reflection.
+     */
+    protected void useTestEntityManagerFactory() {
+        try {
+            Field emfField = BaseDAO.class.getDeclaredField("emf");
+            emfField.setAccessible(true);
+            emfField.set(null, entityManagerFactory);
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("Failed to setup BaseDAO.emf", e);
+        }
+    }
+
     /**
      * Helper method to begin transaction
      */
@@ -151,6 +158,32 @@ public abstract class UnitTestBase {
         }
     }
 
+    /**
+     * Hibernate statistics for the test EntityManagerFactory
+     */
+    protected Statistics getStatistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * Number of JDBC statements prepared since the statistics were last cleared
+     */
+    protected long getQueryCount() {
+        return getStatistics().getPrepareStatementCount();
+    }
+
+    /**
+     * Assert that the given action issues at most {@code maxQueries} JDBC statements,
+     * e.g. to catch N+1 loading in a servlet call
+     */
+    protected void assertMaxQueries(long maxQueries, Executable action) throws Throwable {
+        getStatistics().clear();
+        action.execute();
+        long queryCount = getQueryCount();
+        assertTrue(queryCount <= maxQueries,
+                "Expected at most " + maxQueries + " queries but " + queryCount + " were issued");
+    }
+
     /**
      * Seed test data - override in subclasses if needed
      */
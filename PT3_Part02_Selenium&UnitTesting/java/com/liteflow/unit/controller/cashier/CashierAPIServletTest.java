@@ -1,7 +1,6 @@
 package com.liteflow.unit.controller.cashier;
 
 import com.liteflow.controller.cashier.CashierAPIServlet;
-import com.liteflow.dao.BaseDAO;
 import com.liteflow.model.inventory.*;
 import com.liteflow.unit.base.UnitTestBase;
 import com.liteflow.utils.TestDataBuilder;
@@ -23,7 +22,6 @@ import java.io.BufferedReader;
 import java.io.PrintWriter;
 import java.io.StringReader;
 import java.io.StringWriter;
-import java.lang.reflect.Field;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.*;
@@ -82,14 +80,8 @@ public class CashierAPIServletTest extends UnitTestBase {
         servlet = new CashierAPIServlet();
         gson = new Gson();
 
-        // Setup BaseDAO.emf to use test EntityManagerFactory
-        try {
-            Field emfField = BaseDAO.class.getDeclaredField("emf");
-            emfField.setAccessible(true);
-            emfField.set(null, entityManagerFactory);
-        } catch (Exception e) {
-            fail("Failed to set BaseDAO.emf: " + e.getMessage());
-        }
+        // Point BaseDAO at the test EntityManagerFactory
+        useTestEntityManagerFactory();
 
         // Setup servlet context and config
         when(servletConfig.getServletContext()).thenReturn(servletContext);
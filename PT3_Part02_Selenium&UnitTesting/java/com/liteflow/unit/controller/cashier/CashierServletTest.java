@@ -1,14 +1,12 @@
 package com.liteflow.unit.controller.cashier;
 
 import com.liteflow.controller.cashier.CashierServlet;
-import com.liteflow.dao.BaseDAO;
 import com.liteflow.model.inventory.*;
 import com.liteflow.unit.base.UnitTestBase;
 import com.liteflow.utils.TestDataBuilder;
 import com.google.gson.Gson;
 import com.google.gson.reflect.TypeToken;
 
-import jakarta.persistence.EntityManagerFactory;
 import jakarta.servlet.RequestDispatcher;
 import jakarta.servlet.ServletConfig;
 import jakarta.servlet.ServletContext;
@@ -25,7 +23,6 @@ import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.io.PrintWriter;
 import java.io.StringWriter;
-import java.lang.reflect.Field;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -75,20 +72,8 @@ public class CashierServletTest extends UnitTestBase {
         servlet = new CashierServlet();
         gson = new Gson();
 
-        // Setup BaseDAO.emf to use test EntityManagerFactory via reflection
-        try {
-            Field emfField = BaseDAO.class.getDeclaredField("emf");
-            emfField.setAccessible(true);
-            emfField.set(null, entityManagerFactory);
-            
-            // Verify it was set correctly
-            EntityManagerFactory setEmf = (EntityManagerFactory) emfField.get(null);
-            assertNotNull(setEmf, "BaseDAO.emf should not be null");
-            assertSame(entityManagerFactory, setEmf, "BaseDAO.emf should be the same instance as test EntityManagerFactory");
-            System.out.println("✅ BaseDAO.emf set successfully");
-        } catch (Exception e) {
-            fail("Failed to set BaseDAO.emf: " + e.getMessage());
-        }
+        // Point BaseDAO at the test EntityManagerFactory
+        useTestEntityManagerFactory();
 
         // Setup servlet context and config
         when(servletConfig.getServletContext()).thenReturn(servletContext);
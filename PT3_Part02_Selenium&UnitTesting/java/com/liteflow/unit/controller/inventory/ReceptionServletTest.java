@@ -3,7 +3,6 @@ package com.liteflow.unit.controller.inventory;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.liteflow.controller.inventory.ReceptionServlet;
-import com.liteflow.dao.BaseDAO;
 import com.liteflow.model.inventory.*;
 import com.liteflow.unit.base.UnitTestBase;
 import com.liteflow.utils.TestDataBuilder;
@@ -22,7 +21,6 @@ import java.io.BufferedReader;
 import java.io.PrintWriter;
 import java.io.StringReader;
 import java.io.StringWriter;
-import java.lang.reflect.Field;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Map;
@@ -72,14 +70,8 @@ public class ReceptionServletTest extends UnitTestBase {
         super.setUp();
         mocks = MockitoAnnotations.openMocks(this);
 
-        try {
-            // Setup BaseDAO.emf via reflection
-            Field emfField = BaseDAO.class.getDeclaredField("emf");
-            emfField.setAccessible(true);
-            emfField.set(null, entityManagerFactory);
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to setup BaseDAO.emf", e);
-        }
+        // Point BaseDAO at the test EntityManagerFactory
+        useTestEntityManagerFactory();
 
         servlet = new ReceptionServlet();
         gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss").create();
@@ -1,7 +1,6 @@
 package com.liteflow.unit.service.inventory;
 
 import com.google.gson.Gson;
-import com.liteflow.dao.BaseDAO;
 import com.liteflow.model.inventory.*;
 import com.liteflow.service.inventory.OrderService;
 import com.liteflow.unit.base.UnitTestBase;
@@ -10,7 +9,6 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import java.lang.reflect.Field;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.*;
@@ -41,14 +39,8 @@ public class OrderServiceTest extends UnitTestBase {
     public void setUp() {
         super.setUp();
 
-        try {
-            // Setup BaseDAO.emf via reflection to use our test EntityManagerFactory
-            Field emfField = BaseDAO.class.getDeclaredField("emf");
-            emfField.setAccessible(true);
-            emfField.set(null, entityManagerFactory);
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to setup BaseDAO.emf", e);
-        }
+        // Point BaseDAO at the test EntityManagerFactory
+        useTestEntityManagerFactory();
 
         orderService = new OrderService();
         gson = new Gson();
@@ -559,4 +551,60 @@ public class OrderServiceTest extends UnitTestBase {
         );
         assertTrue(exception.getMessage().contains("Trạng thái không hợp lệ"));
     }
+
+    /**
+     * Test 12: Create order with many lines (lunch-rush ticket size)
+     */
+    @Test
+    public void testCreateOrderAndNotifyKitchen_ManyLines() {
+        // Arrange - 30 distinct stocked variants, one line each
+        int lineCount = 30;
+        List<Map<String, Object>> items = new ArrayList<>();
+        beginTransaction();
+        for (int i = 0; i < lineCount; i++) {
+            ProductVariant variant = new ProductVariant();
+            variant.setProductVariantId(UUID.randomUUID());
+            variant.setProduct(testProduct);
+            variant.setSize("S" + i);
+            variant.setPrice(BigDecimal.valueOf(10000));
+            variant.setOriginalPrice(BigDecimal.valueOf(10000));
+            entityManager.persist(variant);
+
+            ProductStock stock = new ProductStock();
+            stock.setProductStockId(UUID.randomUUID());
+            stock.setProductVariant(variant);
+            stock.setInventory(testInventory);
+            stock.setAmount(100);
+            entityManager.persist(stock);
+
+            Map<String, Object> item = new HashMap<>();
+            item.put("variantId", variant.getProductVariantId().toString());
+            item.put("quantity", 1);
+            items.add(item);
+        }
+        commitTransaction();
+
+        // Act
+        Map<String, Object> result = orderService.createOrderAndNotifyKitchen(
+                testTable.getTableId(),
+                items,
+                null,
+                "Table 1 - Invoice 1",
+                null
+        );
+
+        // Assert
+        assertNotNull(result);
+        UUID orderId = (UUID) result.get("orderId");
+
+        entityManager.clear();
+        beginTransaction();
+        Order order = entityManager.find(Order.class, orderId);
+        assertNotNull(order);
+        assertEquals(lineCount, order.getOrderDetails().size());
+
+        // Subtotal = 10000 * 30 = 300000
+        assertEquals(0, BigDecimal.valueOf(300000).compareTo(order.getSubTotal()));
+        commitTransaction();
+    }
 }
@@ -1,6 +1,5 @@
 package com.liteflow.unit.service.inventory;
 
-import com.liteflow.dao.BaseDAO;
 import com.liteflow.model.inventory.*;
 import com.liteflow.service.inventory.ReservationService;
 import com.liteflow.unit.base.UnitTestBase;
@@ -9,7 +8,6 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import java.lang.reflect.Field;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
@@ -36,14 +34,8 @@ public class ReservationServiceTest extends UnitTestBase {
     public void setUp() {
         super.setUp();
 
-        try {
-            // Setup BaseDAO.emf via reflection to use our test EntityManagerFactory
-            Field emfField = BaseDAO.class.getDeclaredField("emf");
-            emfField.setAccessible(true);
-            emfField.set(null, entityManagerFactory);
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to setup BaseDAO.emf", e);
-        }
+        // Point BaseDAO at the test EntityManagerFactory
+        useTestEntityManagerFactory();
 
         reservationService = new ReservationService();
 
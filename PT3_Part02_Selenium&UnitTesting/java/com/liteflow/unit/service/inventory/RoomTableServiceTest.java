@@ -1,6 +1,5 @@
 package com.liteflow.unit.service.inventory;
 
-import com.liteflow.dao.BaseDAO;
 import com.liteflow.model.inventory.Room;
 import com.liteflow.model.inventory.Table;
 import com.liteflow.service.inventory.RoomTableService;
@@ -10,7 +9,6 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import java.lang.reflect.Field;
 import java.util.List;
 import java.util.UUID;
 
@@ -34,14 +32,8 @@ public class RoomTableServiceTest extends UnitTestBase {
     public void setUp() {
         super.setUp();
 
-        try {
-            // Setup BaseDAO.emf via reflection to use our test EntityManagerFactory
-            Field emfField = BaseDAO.class.getDeclaredField("emf");
-            emfField.setAccessible(true);
-            emfField.set(null, entityManagerFactory);
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to setup BaseDAO.emf", e);
-        }
+        // Point BaseDAO at the test EntityManagerFactory
+        useTestEntityManagerFactory();
 
         roomTableService = new RoomTableService();
         seedTestData();
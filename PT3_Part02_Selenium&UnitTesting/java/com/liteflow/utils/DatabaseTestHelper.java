@@ -48,6 +48,11 @@ public class DatabaseTestHelper {
         properties.put("hibernate.format_sql", "true");
         properties.put("hibernate.use_sql_comments", "false");
 
+        // Statistics for UnitTestBase query-count assertions,
+        // without the per-session "Session Metrics" INFO log
+        properties.put("hibernate.generate_statistics", "true");
+        properties.put("hibernate.session.events.log", "false");
+
         return Persistence.createEntityManagerFactory("LiteFlowPU", properties);
     }
 
@@ -6,6 +6,7 @@ import com.liteflow.model.auth.User;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Test Data Builder for creating test entities
@@ -15,6 +16,19 @@ import java.util.UUID;
  */
 public class TestDataBuilder {
 
+    private static final AtomicLong codeSequence = new AtomicLong();
+
+    /**
+     * Generate a code that is unique within the test JVM without a DB lookup.
+     * Epoch millis in base 36 is a fixed 8 characters, so appending a
+     * monotonically increasing counter cannot collide.
+     */
+    private static String uniqueCode(String prefix) {
+        return prefix
+                + Long.toString(System.currentTimeMillis(), 36).toUpperCase()
+                + Long.toString(codeSequence.incrementAndGet(), 36).toUpperCase();
+    }
+
     // Room Builder
     public static class RoomBuilder {
         private Room room = new Room();
@@ -119,7 +133,7 @@ public class TestDataBuilder {
 
         public ReservationBuilder() {
             reservation.setReservationId(UUID.randomUUID());
-            reservation.setReservationCode("RES" + System.currentTimeMillis());
+            reservation.setReservationCode(uniqueCode("RES"));
             reservation.setCustomerName("Test Customer");
             reservation.setCustomerPhone("0123456789");
             reservation.setCustomerEmail("test@example.com");